@@ -0,0 +1,128 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+public final class AppendableSeq<T> implements Seq<T> {
+    private static final int BATCH_SIZE = 256;
+
+    private final Object lock = new Object();
+    private final List<T> elements = new ArrayList<>();
+    private final List<Subscription<T>> subscriptions = new ArrayList<>();
+
+    AppendableSeq() {
+    }
+
+    public void add(T element) {
+        synchronized (lock) {
+            elements.add(element);
+            for (Iterator<Subscription<T>> it = subscriptions.iterator(); it.hasNext(); ) {
+                Subscription<T> subscription = it.next();
+                if (!subscription.accept(element)) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    public void addAll(Iterable<? extends T> elements) {
+        Objects.requireNonNull(elements, "elements is null");
+
+        synchronized (lock) {
+            for (T element : elements) {
+                add(element);
+            }
+        }
+    }
+
+    public LiveView<T> view() {
+        return new LiveView<T>(lock, this::subscribe);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        int size;
+        synchronized (lock) {
+            size = elements.size();
+        }
+        return new BatchItr(size);
+    }
+
+    @Override
+    public int count() {
+        synchronized (lock) {
+            return elements.size();
+        }
+    }
+
+    private Runnable subscribe(Consumer<? super T> sink, Consumer<RuntimeException> onFailure) {
+        synchronized (lock) {
+            Subscription<T> subscription = new Subscription<>(sink, onFailure);
+            for (T element : elements) {
+                if (!subscription.accept(element)) {
+                    return () -> {
+                    };
+                }
+            }
+            subscriptions.add(subscription);
+            return () -> {
+                synchronized (lock) {
+                    subscriptions.remove(subscription);
+                }
+            };
+        }
+    }
+
+    private static final class Subscription<T> {
+        private final Consumer<? super T> sink;
+        private final Consumer<RuntimeException> onFailure;
+
+        private Subscription(Consumer<? super T> sink, Consumer<RuntimeException> onFailure) {
+            this.sink = sink;
+            this.onFailure = onFailure;
+        }
+
+        // A failing sink is cut off on its own, so the other views keep seeing every element
+        private boolean accept(T element) {
+            try {
+                sink.accept(element);
+                return true;
+            } catch (RuntimeException e) {
+                onFailure.accept(e);
+                return false;
+            }
+        }
+    }
+
+    private final class BatchItr implements Iterator<T> {
+        private final List<T> batch = new ArrayList<>(BATCH_SIZE);
+        private final int size;
+        private int index = 0;
+        private int batchIndex = 0;
+
+        private BatchItr(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public T next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            if (batchIndex == batch.size()) {
+                batch.clear();
+                batchIndex = 0;
+                synchronized (lock) {
+                    batch.addAll(elements.subList(index, Math.min(index + BATCH_SIZE, size)));
+                }
+            }
+            index++;
+            return batch.get(batchIndex++);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package be.twofold.tinyseq;
+
+import java.util.function.*;
+
+public final class CancellationToken implements BooleanSupplier {
+    private volatile boolean cancelled;
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return cancelled;
+    }
+}
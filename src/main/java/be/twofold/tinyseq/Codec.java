@@ -0,0 +1,90 @@
+package be.twofold.tinyseq;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+public interface Codec<T> {
+
+    static Codec<Integer> ints() {
+        return new Codec<Integer>() {
+            @Override
+            public void encode(Integer value, DataOutput output) throws IOException {
+                output.writeInt(value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+
+            @Override
+            public int fixedSize() {
+                return Integer.BYTES;
+            }
+        };
+    }
+
+    static Codec<Long> longs() {
+        return new Codec<Long>() {
+            @Override
+            public void encode(Long value, DataOutput output) throws IOException {
+                output.writeLong(value);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+
+            @Override
+            public int fixedSize() {
+                return Long.BYTES;
+            }
+        };
+    }
+
+    static Codec<Double> doubles() {
+        return new Codec<Double>() {
+            @Override
+            public void encode(Double value, DataOutput output) throws IOException {
+                output.writeDouble(value);
+            }
+
+            @Override
+            public Double decode(ByteBuffer buffer) {
+                return buffer.getDouble();
+            }
+
+            @Override
+            public int fixedSize() {
+                return Double.BYTES;
+            }
+        };
+    }
+
+    static Codec<String> strings() {
+        return new Codec<String>() {
+            @Override
+            public void encode(String value, DataOutput output) throws IOException {
+                output.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    void encode(T value, DataOutput output) throws IOException;
+
+    T decode(ByteBuffer buffer);
+
+    default int fixedSize() {
+        return -1;
+    }
+
+}
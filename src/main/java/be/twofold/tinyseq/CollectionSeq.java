@@ -0,0 +1,31 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+
+final class CollectionSeq<T> implements Seq<T> {
+    private final Collection<T> collection;
+
+    CollectionSeq(Collection<T> collection) {
+        this.collection = Objects.requireNonNull(collection, "collection is null");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return collection.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return collection.spliterator();
+    }
+
+    @Override
+    public int count() {
+        return collection.size();
+    }
+
+    @Override
+    public List<T> toList() {
+        return new ArrayList<>(collection);
+    }
+}
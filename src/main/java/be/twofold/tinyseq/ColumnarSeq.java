@@ -0,0 +1,586 @@
+package be.twofold.tinyseq;
+
+import java.nio.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+public final class ColumnarSeq implements Seq<ColumnarSeq.Row> {
+    private final Map<String, Integer> names;
+    private final IntBuffer[] ints;
+    private final LongBuffer[] longs;
+    private final DoubleBuffer[] doubles;
+    private final IntBuffer[] strings;
+    private final String[] dictionary;
+    private final int from;
+    private final int to;
+    private final Predicate<? super Row> filter;
+
+    private ColumnarSeq(Map<String, Integer> names, IntBuffer[] ints, LongBuffer[] longs, DoubleBuffer[] doubles, IntBuffer[] strings, String[] dictionary, int from, int to, Predicate<? super Row> filter) {
+        this.names = names;
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.strings = strings;
+        this.dictionary = dictionary;
+        this.from = from;
+        this.to = to;
+        this.filter = filter;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int column(String name) {
+        Integer column = names.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown column: " + name);
+        }
+        return column;
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<Row>() {
+            private final Row cursor = new Row(from);
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && cursor.index < to) {
+                    if (matches(cursor)) {
+                        ready = true;
+                    } else {
+                        cursor.index++;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return new Row(cursor.index++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Row> spliterator() {
+        Stream<Row> rows = IntStream.range(from, to).mapToObj(Row::new);
+        return (filter == null ? rows : rows.filter(filter)).spliterator();
+    }
+
+    @Override
+    public int count() {
+        if (filter == null) {
+            return to - from;
+        }
+        int count = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int count(Predicate<? super Row> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        int count = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row) && predicate.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public ColumnarSeq filter(Predicate<? super Row> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        Predicate<? super Row> combined = predicate;
+        if (filter != null) {
+            Predicate<? super Row> first = filter;
+            combined = row -> first.test(row) && predicate.test(row);
+        }
+        return new ColumnarSeq(names, ints, longs, doubles, strings, dictionary, from, to, combined);
+    }
+
+    @Override
+    public double average(ToIntFunction<? super Row> mapper) {
+        double sum = 0.0;
+        int count = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsInt(row);
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    @Override
+    public double average(ToLongFunction<? super Row> mapper) {
+        double sum = 0.0;
+        int count = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsLong(row);
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    @Override
+    public double average(ToDoubleFunction<? super Row> mapper) {
+        double sum = 0.0;
+        int count = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsDouble(row);
+                count++;
+            }
+        }
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    @Override
+    public int max(ToIntFunction<? super Row> mapper) {
+        return maxOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public long max(ToLongFunction<? super Row> mapper) {
+        return maxOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public double max(ToDoubleFunction<? super Row> mapper) {
+        return maxOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public OptionalInt maxOptional(ToIntFunction<? super Row> mapper) {
+        return reduce(mapper, Integer::max);
+    }
+
+    @Override
+    public OptionalLong maxOptional(ToLongFunction<? super Row> mapper) {
+        return reduce(mapper, Long::max);
+    }
+
+    @Override
+    public OptionalDouble maxOptional(ToDoubleFunction<? super Row> mapper) {
+        return reduce(mapper, Double::max);
+    }
+
+    @Override
+    public int min(ToIntFunction<? super Row> mapper) {
+        return minOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public long min(ToLongFunction<? super Row> mapper) {
+        return minOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public double min(ToDoubleFunction<? super Row> mapper) {
+        return minOptional(mapper).orElseThrow(ColumnarSeq::emptySeq);
+    }
+
+    @Override
+    public OptionalInt minOptional(ToIntFunction<? super Row> mapper) {
+        return reduce(mapper, Integer::min);
+    }
+
+    @Override
+    public OptionalLong minOptional(ToLongFunction<? super Row> mapper) {
+        return reduce(mapper, Long::min);
+    }
+
+    @Override
+    public OptionalDouble minOptional(ToDoubleFunction<? super Row> mapper) {
+        return reduce(mapper, Double::min);
+    }
+
+    @Override
+    public IntSummaryStatistics statistics(ToIntFunction<? super Row> mapper) {
+        IntSummaryStatistics statistics = new IntSummaryStatistics();
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                statistics.accept(mapper.applyAsInt(row));
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public LongSummaryStatistics statistics(ToLongFunction<? super Row> mapper) {
+        LongSummaryStatistics statistics = new LongSummaryStatistics();
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                statistics.accept(mapper.applyAsLong(row));
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public DoubleSummaryStatistics statistics(ToDoubleFunction<? super Row> mapper) {
+        DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                statistics.accept(mapper.applyAsDouble(row));
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public int sum(ToIntFunction<? super Row> mapper) {
+        int sum = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsInt(row);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long sum(ToLongFunction<? super Row> mapper) {
+        long sum = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsLong(row);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public double sum(ToDoubleFunction<? super Row> mapper) {
+        double sum = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                sum += mapper.applyAsDouble(row);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public ColumnarSeq drop(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        return new ColumnarSeq(names, ints, longs, doubles, strings, dictionary, skip(count), to, filter);
+    }
+
+    @Override
+    public ColumnarSeq take(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        return new ColumnarSeq(names, ints, longs, doubles, strings, dictionary, from, skip(count), filter);
+    }
+
+    private boolean matches(Row row) {
+        return filter == null || filter.test(row);
+    }
+
+    // Index just past the first count selected rows, rows are immutable once built
+    private int skip(int count) {
+        if (filter == null) {
+            return from + Math.min(count, to - from);
+        }
+        Row row = new Row(from);
+        for (int skipped = 0; skipped < count && row.index < to; row.index++) {
+            if (filter.test(row)) {
+                skipped++;
+            }
+        }
+        return row.index;
+    }
+
+    private OptionalInt reduce(ToIntFunction<? super Row> mapper, IntBinaryOperator operator) {
+        boolean present = false;
+        int acc = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                int value = mapper.applyAsInt(row);
+                acc = present ? operator.applyAsInt(acc, value) : value;
+                present = true;
+            }
+        }
+        return present ? OptionalInt.of(acc) : OptionalInt.empty();
+    }
+
+    private OptionalLong reduce(ToLongFunction<? super Row> mapper, LongBinaryOperator operator) {
+        boolean present = false;
+        long acc = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                long value = mapper.applyAsLong(row);
+                acc = present ? operator.applyAsLong(acc, value) : value;
+                present = true;
+            }
+        }
+        return present ? OptionalLong.of(acc) : OptionalLong.empty();
+    }
+
+    private OptionalDouble reduce(ToDoubleFunction<? super Row> mapper, DoubleBinaryOperator operator) {
+        boolean present = false;
+        double acc = 0;
+        for (Row row = new Row(from); row.index < to; row.index++) {
+            if (matches(row)) {
+                double value = mapper.applyAsDouble(row);
+                acc = present ? operator.applyAsDouble(acc, value) : value;
+                present = true;
+            }
+        }
+        return present ? OptionalDouble.of(acc) : OptionalDouble.empty();
+    }
+
+    private static NoSuchElementException emptySeq() {
+        return new NoSuchElementException("Empty seq");
+    }
+
+    private static <B extends Buffer> B column(B[] columns, int column, String type) {
+        B buffer = columns[column];
+        if (buffer == null) {
+            throw new IllegalArgumentException("Not " + type + " column: " + column);
+        }
+        return buffer;
+    }
+
+    // Scanning terminals advance a single internal Row, iteration hands out a new Row per element
+    public final class Row {
+        private int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        public int index() {
+            return index - from;
+        }
+
+        public int getInt(int column) {
+            return column(ints, column, "an int").get(index);
+        }
+
+        public long getLong(int column) {
+            return column(longs, column, "a long").get(index);
+        }
+
+        public double getDouble(int column) {
+            return column(doubles, column, "a double").get(index);
+        }
+
+        public String getString(int column) {
+            int code = column(strings, column, "a string").get(index);
+            return code == 0 ? null : dictionary[code - 1];
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Row)) {
+                return false;
+            }
+            Row other = (Row) obj;
+            return index == other.index && ints == other.table().ints;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        private ColumnarSeq table() {
+            return ColumnarSeq.this;
+        }
+    }
+
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<String, Integer> names = new LinkedHashMap<>();
+        private final List<Character> types = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>(); // 0 is reserved for null
+        private final List<String> dictionary = new ArrayList<>();
+        private IntBuffer[] ints;
+        private LongBuffer[] longs;
+        private DoubleBuffer[] doubles;
+        private IntBuffer[] strings;
+        private int capacity;
+        private int size;
+        private boolean built;
+
+        private Builder() {
+        }
+
+        public Builder intColumn(String name) {
+            return addColumn(name, 'I');
+        }
+
+        public Builder longColumn(String name) {
+            return addColumn(name, 'J');
+        }
+
+        public Builder doubleColumn(String name) {
+            return addColumn(name, 'D');
+        }
+
+        public Builder stringColumn(String name) {
+            return addColumn(name, 'S');
+        }
+
+        public Builder setInt(int column, int value) {
+            ensureRow();
+            column(ints, column, "an int").put(size, value);
+            return this;
+        }
+
+        public Builder setLong(int column, long value) {
+            ensureRow();
+            column(longs, column, "a long").put(size, value);
+            return this;
+        }
+
+        public Builder setDouble(int column, double value) {
+            ensureRow();
+            column(doubles, column, "a double").put(size, value);
+            return this;
+        }
+
+        public Builder setString(int column, String value) {
+            ensureRow();
+            IntBuffer buffer = column(strings, column, "a string");
+            if (value == null) {
+                buffer.put(size, 0);
+                return this;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                dictionary.add(value);
+                code = dictionary.size();
+                codes.put(value, code);
+            }
+            buffer.put(size, code);
+            return this;
+        }
+
+        public Builder endRow() {
+            ensureRow();
+            size++;
+            return this;
+        }
+
+        public ColumnarSeq build() {
+            checkNotBuilt();
+            built = true;
+            if (ints == null) {
+                allocate(0);
+            }
+            return new ColumnarSeq(
+                Collections.unmodifiableMap(names), ints, longs, doubles, strings,
+                dictionary.toArray(new String[0]), 0, size, null
+            );
+        }
+
+        private Builder addColumn(String name, char type) {
+            Objects.requireNonNull(name, "name is null");
+            checkNotBuilt();
+            if (ints != null) {
+                throw new IllegalStateException("Columns must be added before the first row");
+            }
+            if (names.putIfAbsent(name, types.size()) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + name);
+            }
+            types.add(type);
+            return this;
+        }
+
+        private void ensureRow() {
+            checkNotBuilt();
+            if (ints == null) {
+                allocate(INITIAL_CAPACITY);
+            } else if (size == capacity) {
+                if (capacity == Integer.MAX_VALUE / Long.BYTES) {
+                    throw new IllegalStateException("Too many rows");
+                }
+                allocate((int) Math.min((long) capacity * 2, Integer.MAX_VALUE / Long.BYTES));
+            }
+        }
+
+        private void allocate(int newCapacity) {
+            int columns = types.size();
+            IntBuffer[] newInts = new IntBuffer[columns];
+            LongBuffer[] newLongs = new LongBuffer[columns];
+            DoubleBuffer[] newDoubles = new DoubleBuffer[columns];
+            IntBuffer[] newStrings = new IntBuffer[columns];
+            for (int i = 0; i < columns; i++) {
+                ByteBuffer buffer;
+                switch (types.get(i)) {
+                    case 'I':
+                        buffer = allocateDirect(newCapacity, Integer.BYTES);
+                        newInts[i] = buffer.asIntBuffer();
+                        if (ints != null) {
+                            newInts[i].put((IntBuffer) ((Buffer) ints[i].duplicate()).position(0).limit(size));
+                        }
+                        break;
+                    case 'J':
+                        buffer = allocateDirect(newCapacity, Long.BYTES);
+                        newLongs[i] = buffer.asLongBuffer();
+                        if (longs != null) {
+                            newLongs[i].put((LongBuffer) ((Buffer) longs[i].duplicate()).position(0).limit(size));
+                        }
+                        break;
+                    case 'D':
+                        buffer = allocateDirect(newCapacity, Double.BYTES);
+                        newDoubles[i] = buffer.asDoubleBuffer();
+                        if (doubles != null) {
+                            newDoubles[i].put((DoubleBuffer) ((Buffer) doubles[i].duplicate()).position(0).limit(size));
+                        }
+                        break;
+                    default:
+                        buffer = allocateDirect(newCapacity, Integer.BYTES);
+                        newStrings[i] = buffer.asIntBuffer();
+                        if (strings != null) {
+                            newStrings[i].put((IntBuffer) ((Buffer) strings[i].duplicate()).position(0).limit(size));
+                        }
+                        break;
+                }
+            }
+            ints = newInts;
+            longs = newLongs;
+            doubles = newDoubles;
+            strings = newStrings;
+            capacity = newCapacity;
+        }
+
+        private static ByteBuffer allocateDirect(int capacity, int bytes) {
+            return ByteBuffer.allocateDirect(capacity * bytes).order(ByteOrder.nativeOrder());
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package be.twofold.tinyseq;
+
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+
+final class Deadline implements BooleanSupplier {
+    private static final int CHECK_INTERVAL = 64;
+
+    private final long start = System.nanoTime();
+    private final long nanos;
+    private final CancellationToken token;
+    private int countdown = 0;
+    private boolean expired = false;
+
+    Deadline(long nanos, CancellationToken token) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("nanos < 0");
+        }
+        this.nanos = nanos;
+        this.token = token;
+    }
+
+    static long toNanos(Duration duration) {
+        Objects.requireNonNull(duration, "duration is null");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("duration is negative");
+        }
+        return duration.getSeconds() < Long.MAX_VALUE / 1_000_000_000L ? duration.toNanos() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        if (expired) {
+            return true;
+        }
+        if (token != null && token.isCancelled()) {
+            expired = true;
+            return true;
+        }
+        if (--countdown > 0) {
+            return false;
+        }
+        countdown = CHECK_INTERVAL;
+        expired = System.nanoTime() - start >= nanos;
+        if (expired && token != null) {
+            token.cancel();
+        }
+        return expired;
+    }
+}
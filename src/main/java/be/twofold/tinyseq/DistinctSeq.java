@@ -0,0 +1,21 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+
+final class DistinctSeq<T> implements Seq<T> {
+    private final Seq<T> seq;
+
+    DistinctSeq(Seq<T> seq) {
+        this.seq = Objects.requireNonNull(seq, "seq is null");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new DistinctItr<>(seq.iterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.DISTINCT);
+    }
+}
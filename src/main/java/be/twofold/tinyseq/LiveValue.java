@@ -0,0 +1,52 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+public final class LiveValue<R> implements Supplier<R>, AutoCloseable {
+    private final Object lock;
+    private final Supplier<R> reader;
+    private Runnable unsubscribe;
+    private RuntimeException failure;
+    private boolean closed;
+
+    LiveValue(Object lock, Supplier<R> reader) {
+        this.lock = Objects.requireNonNull(lock, "lock is null");
+        this.reader = Objects.requireNonNull(reader, "reader is null");
+    }
+
+    @Override
+    public R get() {
+        synchronized (lock) {
+            if (failure != null) {
+                throw new IllegalStateException("Live value failed", failure);
+            }
+            return reader.get();
+        }
+    }
+
+    public boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (!closed) {
+                closed = true;
+                unsubscribe.run();
+            }
+        }
+    }
+
+    void attach(Runnable unsubscribe) {
+        this.unsubscribe = unsubscribe;
+    }
+
+    void fail(RuntimeException failure) {
+        this.failure = failure;
+        this.closed = true;
+    }
+}
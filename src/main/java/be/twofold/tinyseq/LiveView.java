@@ -0,0 +1,176 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+public final class LiveView<T> {
+    private final Object lock;
+    private final Source<T> source;
+
+    LiveView(Object lock, Source<T> source) {
+        this.lock = lock;
+        this.source = source;
+    }
+
+    public LiveView<T> distinct() {
+        return new LiveView<>(lock, (sink, onFailure) -> {
+            Set<T> seen = new HashSet<>();
+            return source.subscribe(element -> {
+                if (seen.add(element)) {
+                    sink.accept(element);
+                }
+            }, onFailure);
+        });
+    }
+
+    public LiveView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+
+        return new LiveView<>(lock, (sink, onFailure) -> source.subscribe(element -> {
+            if (predicate.test(element)) {
+                sink.accept(element);
+            }
+        }, onFailure));
+    }
+
+    public <R> LiveView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        return new LiveView<>(lock, (sink, onFailure) -> source.subscribe(element -> sink.accept(mapper.apply(element)), onFailure));
+    }
+
+    public LiveValue<Integer> count() {
+        int[] count = {0};
+        return subscribe(element -> count[0]++, () -> count[0]);
+    }
+
+    public <K> LiveValue<Map<K, Integer>> countBy(Function<? super T, ? extends K> keyMapper) {
+        return foldBy(keyMapper, 0, (count, element) -> count + 1);
+    }
+
+    public <U> LiveValue<U> fold(U initial, BiFunction<? super U, ? super T, ? extends U> function) {
+        Objects.requireNonNull(function, "function is null");
+
+        AtomicReference<U> result = new AtomicReference<>(initial);
+        return subscribe(element -> result.set(function.apply(result.get(), element)), result::get);
+    }
+
+    public <K, U> LiveValue<Map<K, U>> foldBy(Function<? super T, ? extends K> keyMapper, U initial, BiFunction<? super U, ? super T, ? extends U> function) {
+        Objects.requireNonNull(keyMapper, "keyMapper is null");
+        Objects.requireNonNull(function, "function is null");
+
+        Map<K, U> groups = new HashMap<>();
+        return subscribe(element -> {
+            K key = keyMapper.apply(element);
+            groups.put(key, function.apply(groups.containsKey(key) ? groups.get(key) : initial, element));
+        }, () -> new HashMap<>(groups));
+    }
+
+    public LiveValue<OptionalInt> max(ToIntFunction<? super T> mapper) {
+        return reduce(mapper, Integer::max);
+    }
+
+    public LiveValue<OptionalLong> max(ToLongFunction<? super T> mapper) {
+        return reduce(mapper, Long::max);
+    }
+
+    public LiveValue<OptionalDouble> max(ToDoubleFunction<? super T> mapper) {
+        return reduce(mapper, Double::max);
+    }
+
+    public LiveValue<OptionalInt> min(ToIntFunction<? super T> mapper) {
+        return reduce(mapper, Integer::min);
+    }
+
+    public LiveValue<OptionalLong> min(ToLongFunction<? super T> mapper) {
+        return reduce(mapper, Long::min);
+    }
+
+    public LiveValue<OptionalDouble> min(ToDoubleFunction<? super T> mapper) {
+        return reduce(mapper, Double::min);
+    }
+
+    public LiveValue<Optional<T>> reduce(BinaryOperator<T> operator) {
+        Objects.requireNonNull(operator, "operator is null");
+
+        List<T> result = new ArrayList<>(1);
+        return subscribe(element -> {
+            if (result.isEmpty()) {
+                result.add(element);
+            } else {
+                result.set(0, operator.apply(result.get(0), element));
+            }
+        }, () -> result.isEmpty() ? Optional.empty() : Optional.ofNullable(result.get(0)));
+    }
+
+    public LiveValue<Integer> sum(ToIntFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        int[] sum = {0};
+        return subscribe(element -> sum[0] += mapper.applyAsInt(element), () -> sum[0]);
+    }
+
+    public LiveValue<Long> sum(ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        long[] sum = {0};
+        return subscribe(element -> sum[0] += mapper.applyAsLong(element), () -> sum[0]);
+    }
+
+    public LiveValue<Double> sum(ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        double[] sum = {0};
+        return subscribe(element -> sum[0] += mapper.applyAsDouble(element), () -> sum[0]);
+    }
+
+    private LiveValue<OptionalInt> reduce(ToIntFunction<? super T> mapper, IntBinaryOperator operator) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        int[] acc = {0};
+        boolean[] present = {false};
+        return subscribe(element -> {
+            int value = mapper.applyAsInt(element);
+            acc[0] = present[0] ? operator.applyAsInt(acc[0], value) : value;
+            present[0] = true;
+        }, () -> present[0] ? OptionalInt.of(acc[0]) : OptionalInt.empty());
+    }
+
+    private LiveValue<OptionalLong> reduce(ToLongFunction<? super T> mapper, LongBinaryOperator operator) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        long[] acc = {0};
+        boolean[] present = {false};
+        return subscribe(element -> {
+            long value = mapper.applyAsLong(element);
+            acc[0] = present[0] ? operator.applyAsLong(acc[0], value) : value;
+            present[0] = true;
+        }, () -> present[0] ? OptionalLong.of(acc[0]) : OptionalLong.empty());
+    }
+
+    private LiveValue<OptionalDouble> reduce(ToDoubleFunction<? super T> mapper, DoubleBinaryOperator operator) {
+        Objects.requireNonNull(mapper, "mapper is null");
+
+        double[] acc = {0};
+        boolean[] present = {false};
+        return subscribe(element -> {
+            double value = mapper.applyAsDouble(element);
+            acc[0] = present[0] ? operator.applyAsDouble(acc[0], value) : value;
+            present[0] = true;
+        }, () -> present[0] ? OptionalDouble.of(acc[0]) : OptionalDouble.empty());
+    }
+
+    private <R> LiveValue<R> subscribe(Consumer<? super T> sink, Supplier<R> reader) {
+        synchronized (lock) {
+            LiveValue<R> value = new LiveValue<>(lock, reader);
+            value.attach(source.subscribe(sink, value::fail));
+            return value;
+        }
+    }
+
+    @FunctionalInterface
+    interface Source<T> {
+        Runnable subscribe(Consumer<? super T> sink, Consumer<RuntimeException> onFailure);
+    }
+}
@@ -0,0 +1,24 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+final class MapSeq<T, R> implements Seq<R> {
+    private final Seq<T> seq;
+    private final Function<? super T, ? extends R> mapper;
+
+    MapSeq(Seq<T> seq, Function<? super T, ? extends R> mapper) {
+        this.seq = Objects.requireNonNull(seq, "seq is null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper is null");
+    }
+
+    @Override
+    public Iterator<R> iterator() {
+        return new MapItr<>(seq.iterator(), mapper);
+    }
+
+    @Override
+    public Spliterator<R> spliterator() {
+        return new MapSpliterator<>(seq.spliterator(), mapper);
+    }
+}
@@ -0,0 +1,42 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+final class MapSpliterator<E, R> implements Spliterator<R> {
+    private static final int DROPPED = Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL;
+
+    private final Spliterator<E> spliterator;
+    private final Function<? super E, ? extends R> mapper;
+
+    MapSpliterator(Spliterator<E> spliterator, Function<? super E, ? extends R> mapper) {
+        this.spliterator = Objects.requireNonNull(spliterator, "spliterator is null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper is null");
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        return spliterator.tryAdvance(element -> action.accept(mapper.apply(element)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        spliterator.forEachRemaining(element -> action.accept(mapper.apply(element)));
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        Spliterator<E> split = spliterator.trySplit();
+        return split == null ? null : new MapSpliterator<>(split, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() & ~DROPPED;
+    }
+}
@@ -0,0 +1,269 @@
+package be.twofold.tinyseq;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+final class MappedSeq<T> implements Seq<T> {
+    static final int DEFAULT_SEGMENT_SHIFT = 30;
+
+    private static final int MAGIC = 0x54534551; // "TSEQ"
+    private static final int TRAILER_SIZE = Long.BYTES + 4 * Integer.BYTES;
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final Codec<T> codec;
+    private final ByteBuffer[] data;
+    private final ByteBuffer[] index;
+    private final int shift;
+    private final int fixedSize;
+    private final int from;
+    private final int to;
+
+    private MappedSeq(Codec<T> codec, ByteBuffer[] data, ByteBuffer[] index, int shift, int fixedSize, int from, int to) {
+        this.codec = codec;
+        this.data = data;
+        this.index = index;
+        this.shift = shift;
+        this.fixedSize = fixedSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    static <T> void write(Seq<T> seq, Path path, Codec<? super T> codec, int shift) {
+        Objects.requireNonNull(seq, "seq is null");
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(codec, "codec is null");
+        if (shift < 3 || shift > 30) {
+            throw new IllegalArgumentException("shift out of range");
+        }
+
+        long segmentSize = 1L << shift;
+        int fixedSize = codec.fixedSize();
+        if (fixedSize > segmentSize) {
+            throw new IllegalArgumentException("Fixed size larger than segment");
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        Path dataPath = null;
+        Path indexPath = null;
+        try {
+            dataPath = Files.createTempFile(directory, "tinyseq", ".tmp");
+            indexPath = Files.createTempFile(directory, "tinyseq", ".idx");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataPath)))) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                DataOutputStream bufferOut = new DataOutputStream(buffer);
+                long position = 0;
+                int count = 0;
+                try (DataOutputStream indexOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexPath)))) {
+                    for (T element : seq) {
+                        if (count == Integer.MAX_VALUE) {
+                            throw new IllegalStateException("Too many elements");
+                        }
+                        buffer.reset();
+                        codec.encode(element, bufferOut);
+                        int size = buffer.size();
+                        if (fixedSize >= 0 && size != fixedSize) {
+                            throw new IllegalArgumentException("Encoded element does not match fixed size");
+                        }
+                        if (size > segmentSize) {
+                            throw new IllegalArgumentException("Encoded element larger than segment");
+                        }
+
+                        // Elements never straddle a segment, so they can be decoded in place
+                        if (size > 0 && (position >>> shift) != ((position + size - 1) >>> shift)) {
+                            for (long pad = segmentSize - (position & (segmentSize - 1)); pad > 0; pad--) {
+                                out.write(0);
+                            }
+                            position = ((position + size - 1) >>> shift) << shift;
+                        }
+                        buffer.writeTo(out);
+                        position += size;
+                        // Fixed-size elements are located by their index, so they need no offset table
+                        if (fixedSize < 0) {
+                            indexOut.writeLong(position);
+                        }
+                        count++;
+                    }
+                }
+
+                Files.copy(indexPath, out);
+                out.writeLong(position);
+                out.writeInt(count);
+                out.writeInt(shift);
+                out.writeInt(fixedSize);
+                out.writeInt(MAGIC);
+            }
+
+            // Replace atomically, so failures never leave a truncated file and live mappings stay intact
+            Files.move(dataPath, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteIfExists(dataPath);
+            deleteIfExists(indexPath);
+        }
+    }
+
+    private static void deleteIfExists(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    static <T> MappedSeq<T> open(Path path, Codec<T> codec) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(codec, "codec is null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < TRAILER_SIZE) {
+                throw new IOException("Not a seq file: " + path);
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            while (trailer.hasRemaining()) {
+                if (channel.read(trailer, size - TRAILER_SIZE + trailer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            ((Buffer) trailer).flip();
+            long indexOffset = trailer.getLong();
+            int count = trailer.getInt();
+            int shift = trailer.getInt();
+            int fixedSize = trailer.getInt();
+            long indexLength = fixedSize < 0 ? (long) count * Long.BYTES : 0;
+            if (trailer.getInt() != MAGIC || shift < 3 || shift > 30 || indexOffset + indexLength != size - TRAILER_SIZE) {
+                throw new IOException("Not a seq file: " + path);
+            }
+            if (codec.fixedSize() >= 0 && codec.fixedSize() != fixedSize) {
+                throw new IOException("Codec does not match the fixed size of " + path);
+            }
+
+            ByteBuffer[] data = map(channel, 0, indexOffset, shift);
+            ByteBuffer[] index = map(channel, indexOffset, indexLength, shift);
+            return new MappedSeq<>(codec, data, index, shift, fixedSize, 0, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long offset, long length, int shift) throws IOException {
+        long segmentSize = 1L << shift;
+        ByteBuffer[] segments = new ByteBuffer[(int) ((length + segmentSize - 1) >>> shift)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i << shift;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start, Math.min(segmentSize, length - start));
+        }
+        return segments;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        ByteBuffer[] local = new ByteBuffer[data.length];
+        for (int i = 0; i < data.length; i++) {
+            local[i] = data[i].duplicate();
+        }
+
+        return new Iterator<T>() {
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+                return next < to;
+            }
+
+            @Override
+            public T next() {
+                if (next >= to) {
+                    throw new NoSuchElementException();
+                }
+                return decode(next++, local);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return IntStream.range(from, to)
+            .mapToObj(this::get)
+            .spliterator();
+    }
+
+    @Override
+    public int count() {
+        return to - from;
+    }
+
+    @Override
+    public Seq<T> drop(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        return new MappedSeq<>(codec, data, index, shift, fixedSize, from + Math.min(count, to - from), to);
+    }
+
+    @Override
+    public Seq<T> take(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count < 0");
+        }
+        return new MappedSeq<>(codec, data, index, shift, fixedSize, from, from + Math.min(count, to - from));
+    }
+
+    @Override
+    public T last() {
+        if (from == to) {
+            throw new NoSuchElementException("Empty seq");
+        }
+        return get(to - 1);
+    }
+
+    @Override
+    public Optional<T> lastOptional() {
+        return from == to ? Optional.empty() : Optional.ofNullable(get(to - 1));
+    }
+
+    private T get(int i) {
+        return decode(i, null);
+    }
+
+    private T decode(int i, ByteBuffer[] local) {
+        if (fixedSize >= 0) {
+            return fixedSize == 0 ? codec.decode(EMPTY) : decode(fixedStart(i), fixedSize, local);
+        }
+
+        long end = end(i);
+        long start = i == 0 ? 0 : end(i - 1);
+        if (end == start) {
+            return codec.decode(EMPTY);
+        }
+        if ((start >>> shift) != ((end - 1) >>> shift)) {
+            start = ((end - 1) >>> shift) << shift;
+        }
+        return decode(start, (int) (end - start), local);
+    }
+
+    private T decode(long start, int length, ByteBuffer[] local) {
+        int s = (int) (start >>> shift);
+        ByteBuffer segment = local != null ? local[s] : data[s].duplicate();
+        int offset = (int) (start & ((1L << shift) - 1));
+        ((Buffer) segment).limit(offset + length);
+        ((Buffer) segment).position(offset);
+        return codec.decode(segment);
+    }
+
+    private long fixedStart(int i) {
+        int perSegment = (int) ((1L << shift) / fixedSize);
+        return ((long) (i / perSegment) << shift) + (long) (i % perSegment) * fixedSize;
+    }
+
+    private long end(int i) {
+        long position = (long) i * Long.BYTES;
+        return index[(int) (position >>> shift)].getLong((int) (position & ((1L << shift) - 1)));
+    }
+}
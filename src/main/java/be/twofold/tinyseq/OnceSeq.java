@@ -14,10 +14,19 @@ final class OnceSeq<T> implements Seq<T> {
 
     @Override
     public Iterator<T> iterator() {
+        return take().iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return take().spliterator();
+    }
+
+    private Seq<T> take() {
         Seq<T> seq = reference.getAndSet(null);
         if (seq == null) {
             throw new IllegalStateException("Seq can only be iterated once");
         }
-        return seq.iterator();
+        return seq;
     }
 }
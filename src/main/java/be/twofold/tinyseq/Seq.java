@@ -1,16 +1,23 @@
 package be.twofold.tinyseq;
 
+import java.nio.file.*;
+import java.time.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import static be.twofold.tinyseq.SeqHelper.*;
 
 @FunctionalInterface
 public interface Seq<T> extends Iterable<T> {
 
+    static <T> AppendableSeq<T> appendable() {
+        return new AppendableSeq<>();
+    }
+
     static <T> Seq<T> empty() {
-        return Collections::emptyIterator;
+        return seq(Collections.emptyList());
     }
 
     @SafeVarargs
@@ -23,9 +30,25 @@ public interface Seq<T> extends Iterable<T> {
     }
 
     static <T> Seq<T> seq(Iterable<T> iterable) {
+        Objects.requireNonNull(iterable, "iterable is null");
+
+        if (iterable instanceof Seq) {
+            return (Seq<T>) iterable;
+        }
+        if (iterable instanceof Collection) {
+            return new CollectionSeq<>((Collection<T>) iterable);
+        }
         return iterable::iterator;
     }
 
+    static <T> Seq<T> fromStream(Stream<T> stream) {
+        return new StreamSeq<>(stream).once();
+    }
+
+    static <T> Seq<T> open(Path path, Codec<T> codec) {
+        return MappedSeq.open(path, codec);
+    }
+
     default boolean all(Predicate<? super T> predicate) {
         for (T element : this) {
             if (!predicate.test(element)) {
@@ -74,6 +97,11 @@ public interface Seq<T> extends Iterable<T> {
         return count == 0 ? Double.NaN : sum / count;
     }
 
+    default Seq<T> checkpoint(Path path, Codec<T> codec) {
+        MappedSeq.write(this, path, codec, MappedSeq.DEFAULT_SEGMENT_SHIFT);
+        return open(path, codec);
+    }
+
     default int count() {
         int count = 0;
         for (T ignored : this) {
@@ -95,11 +123,11 @@ public interface Seq<T> extends Iterable<T> {
     }
 
     default Seq<T> distinct() {
-        return () -> new DistinctItr<>(iterator());
+        return new DistinctSeq<>(this);
     }
 
     default Seq<T> drop(int count) {
-        return () -> new DropItr<>(iterator(), count);
+        return SliceSeq.drop(this, count);
     }
 
     default Seq<T> filter(Predicate<? super T> predicate) {
@@ -160,14 +188,14 @@ public interface Seq<T> extends Iterable<T> {
     default <R> Seq<R> map(Function<? super T, ? extends R> mapper) {
         Objects.requireNonNull(mapper, "mapper is null");
 
-        return () -> new MapItr<>(iterator(), mapper);
+        return new MapSeq<>(this, mapper);
     }
 
     default <R> Seq<R> mapIndexed(BiFunction<Integer, ? super T, ? extends R> mapper) {
         Objects.requireNonNull(mapper, "mapper is null");
 
         AtomicInteger index = new AtomicInteger();
-        return map(t -> mapper.apply(index.getAndIncrement(), t));
+        return () -> new MapItr<>(iterator(), t -> mapper.apply(index.getAndIncrement(), t));
     }
 
     default int max(ToIntFunction<? super T> mapper) {
@@ -252,7 +280,7 @@ public interface Seq<T> extends Iterable<T> {
         Objects.requireNonNull(action, "action is null");
 
         AtomicInteger index = new AtomicInteger();
-        return map(element -> {
+        return () -> new MapItr<>(iterator(), element -> {
             action.accept(index.getAndIncrement(), element);
             return element;
         });
@@ -265,6 +293,10 @@ public interface Seq<T> extends Iterable<T> {
         return new OnceSeq<>(this);
     }
 
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     default T reduce(BinaryOperator<T> operator) {
         return SeqHelper.reduce(
             nonEmptyIterator(this), operator
@@ -282,13 +314,12 @@ public interface Seq<T> extends Iterable<T> {
     }
 
     default Seq<T> sorted(Comparator<? super T> comparator) {
-        Objects.requireNonNull(comparator, "comparator is null");
+        return new SortedSeq<>(this, comparator);
+    }
 
-        return () -> {
-            List<T> list = toList();
-            list.sort(comparator);
-            return list.iterator();
-        };
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
     }
 
     default IntSummaryStatistics statistics(ToIntFunction<? super T> mapper) {
@@ -315,6 +346,10 @@ public interface Seq<T> extends Iterable<T> {
         return statistics;
     }
 
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     default int sum(ToIntFunction<? super T> mapper) {
         int sum = 0;
         for (T element : this) {
@@ -340,7 +375,23 @@ public interface Seq<T> extends Iterable<T> {
     }
 
     default Seq<T> take(int count) {
-        return () -> new TakeItr<>(iterator(), count);
+        return SliceSeq.take(this, count);
+    }
+
+    default Seq<T> takeWithin(Duration duration) {
+        long nanos = Deadline.toNanos(duration);
+        return () -> new UntilItr<>(iterator(), new Deadline(nanos, null));
+    }
+
+    default Seq<T> takeWithin(Duration duration, CancellationToken token) {
+        Objects.requireNonNull(token, "token is null");
+
+        long nanos = Deadline.toNanos(duration);
+        return () -> new UntilItr<>(iterator(), new Deadline(nanos, token));
+    }
+
+    default Tee<T> tee() {
+        return new Tee<>(this);
     }
 
     default <C extends Collection<? super T>> C toCollection(C destination) {
@@ -386,5 +437,10 @@ public interface Seq<T> extends Iterable<T> {
         }
     }
 
+    default Seq<T> until(BooleanSupplier condition) {
+        Objects.requireNonNull(condition, "condition is null");
+
+        return () -> new UntilItr<>(iterator(), condition);
+    }
 
 }
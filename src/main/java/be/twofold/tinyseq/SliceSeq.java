@@ -0,0 +1,46 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+
+final class SliceSeq<T> implements Seq<T> {
+    private final Seq<T> seq;
+    private final int count;
+    private final boolean take;
+
+    private SliceSeq(Seq<T> seq, int count, boolean take) {
+        this.seq = Objects.requireNonNull(seq, "seq is null");
+        this.count = count;
+        this.take = take;
+    }
+
+    static <T> SliceSeq<T> drop(Seq<T> seq, int count) {
+        return new SliceSeq<>(seq, count, false);
+    }
+
+    static <T> SliceSeq<T> take(Seq<T> seq, int count) {
+        return new SliceSeq<>(seq, count, true);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return slice(seq.iterator());
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        Spliterator<T> spliterator = seq.spliterator();
+        long size = spliterator.getExactSizeIfKnown();
+        Iterator<T> iterator = slice(Spliterators.iterator(spliterator));
+        int characteristics = Spliterator.ORDERED | (spliterator.characteristics() & Spliterator.DISTINCT);
+        if (size < 0) {
+            return Spliterators.spliteratorUnknownSize(iterator, characteristics);
+        }
+
+        long slicedSize = take ? Math.min(size, count) : Math.max(0, size - count);
+        return Spliterators.spliterator(iterator, slicedSize, characteristics);
+    }
+
+    private Iterator<T> slice(Iterator<T> iterator) {
+        return take ? new TakeItr<>(iterator, count) : new DropItr<>(iterator, count);
+    }
+}
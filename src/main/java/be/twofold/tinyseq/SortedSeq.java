@@ -0,0 +1,31 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+
+final class SortedSeq<T> implements Seq<T> {
+    private final Seq<T> seq;
+    private final Comparator<? super T> comparator;
+
+    SortedSeq(Seq<T> seq, Comparator<? super T> comparator) {
+        this.seq = Objects.requireNonNull(seq, "seq is null");
+        this.comparator = Objects.requireNonNull(comparator, "comparator is null");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return sortedList().iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        // A null comparator signals natural ordering to the stream framework
+        Comparator<? super T> reported = comparator == Comparator.naturalOrder() ? null : comparator;
+        return new SortedSpliterator<>(sortedList().spliterator(), reported);
+    }
+
+    private List<T> sortedList() {
+        List<T> list = seq.toList();
+        list.sort(comparator);
+        return list;
+    }
+}
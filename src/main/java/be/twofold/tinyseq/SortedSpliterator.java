@@ -0,0 +1,45 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+final class SortedSpliterator<E> implements Spliterator<E> {
+    private final Spliterator<E> spliterator;
+    private final Comparator<? super E> comparator;
+
+    SortedSpliterator(Spliterator<E> spliterator, Comparator<? super E> comparator) {
+        this.spliterator = Objects.requireNonNull(spliterator, "spliterator is null");
+        this.comparator = comparator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        return spliterator.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        spliterator.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        Spliterator<E> split = spliterator.trySplit();
+        return split == null ? null : new SortedSpliterator<>(split, comparator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return spliterator.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return spliterator.characteristics() | Spliterator.ORDERED | Spliterator.SORTED;
+    }
+
+    @Override
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+}
@@ -0,0 +1,22 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.stream.*;
+
+final class StreamSeq<T> implements Seq<T> {
+    private final Stream<T> stream;
+
+    StreamSeq(Stream<T> stream) {
+        this.stream = Objects.requireNonNull(stream, "stream is null");
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return stream.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return stream.spliterator();
+    }
+}
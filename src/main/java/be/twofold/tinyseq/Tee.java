@@ -0,0 +1,200 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+public final class Tee<T> {
+    private static final int BATCH_SIZE = 256;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final Object[] END = new Object[0];
+    private static final Object[] FAILED = new Object[0];
+
+    private final Seq<T> seq;
+    private final List<Branch<T, ?>> branches = new ArrayList<>();
+    private boolean started;
+
+    Tee(Seq<T> seq) {
+        this.seq = Objects.requireNonNull(seq, "seq is null");
+    }
+
+    public <R> Supplier<R> branch(Function<? super Seq<T>, ? extends R> function) {
+        Objects.requireNonNull(function, "function is null");
+        if (started) {
+            throw new IllegalStateException("Tee has already been run");
+        }
+
+        Branch<T, R> branch = new Branch<>(function);
+        branches.add(branch);
+        return () -> {
+            if (!branch.result.isDone()) {
+                throw new IllegalStateException("Tee has not been run");
+            }
+            try {
+                return branch.result.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        };
+    }
+
+    public void run() {
+        if (started) {
+            throw new IllegalStateException("Tee has already been run");
+        }
+        started = true;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < branches.size(); i++) {
+            Thread thread = new Thread(branches.get(i)::run, "tinyseq-tee-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+
+        Throwable failure;
+        try {
+            failure = feed();
+            for (Branch<T, ?> branch : branches) {
+                try {
+                    branch.result.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            throw new IllegalStateException("Interrupted while running tee", e);
+        }
+
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+    }
+
+    private Throwable feed() throws InterruptedException {
+        try {
+            Object[] batch = new Object[BATCH_SIZE];
+            int size = 0;
+            for (T element : seq) {
+                batch[size++] = element;
+                if (size == BATCH_SIZE) {
+                    publish(batch);
+                    if (allDone()) {
+                        break;
+                    }
+                    batch = new Object[BATCH_SIZE];
+                    size = 0;
+                }
+            }
+            if (size > 0 && size < BATCH_SIZE) {
+                publish(Arrays.copyOf(batch, size));
+            }
+        } catch (RuntimeException | Error e) {
+            for (Branch<T, ?> branch : branches) {
+                branch.upstreamFailure = e;
+            }
+            publish(FAILED);
+            return e;
+        }
+        publish(END);
+        return null;
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new IllegalStateException(throwable);
+    }
+
+    private void publish(Object[] batch) throws InterruptedException {
+        for (Branch<T, ?> branch : branches) {
+            while (!branch.done) {
+                if (branch.queue.offer(batch, 10, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean allDone() {
+        for (Branch<T, ?> branch : branches) {
+            if (!branch.done) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Branch<T, R> {
+        private final BlockingQueue<Object[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+        private final Function<? super Seq<T>, ? extends R> function;
+        private volatile Throwable upstreamFailure;
+        private volatile boolean done;
+
+        private Branch(Function<? super Seq<T>, ? extends R> function) {
+            this.function = function;
+        }
+
+        private void run() {
+            R value;
+            try {
+                value = function.apply(((Seq<T>) QueueItr::new).once());
+            } catch (Throwable e) {
+                done = true;
+                result.completeExceptionally(e);
+                return;
+            }
+            // Close the branch before publishing, so a lazily returned Seq fails instead of blocking
+            done = true;
+            result.complete(value);
+        }
+
+        private final class QueueItr implements Iterator<T> {
+            private Object[] batch = new Object[0];
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (index == batch.length) {
+                    if (batch == END) {
+                        return false;
+                    }
+                    if (batch == FAILED) {
+                        throw new IllegalStateException("Upstream failed", upstreamFailure);
+                    }
+                    if (done) {
+                        throw new IllegalStateException("Tee branch can only be read while its function runs");
+                    }
+                    try {
+                        batch = queue.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for elements", e);
+                    }
+                    index = 0;
+                }
+                return true;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) batch[index++];
+            }
+        }
+    }
+}
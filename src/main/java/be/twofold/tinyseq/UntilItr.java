@@ -0,0 +1,31 @@
+package be.twofold.tinyseq;
+
+import java.util.*;
+import java.util.function.*;
+
+final class UntilItr<E> implements Iterator<E> {
+    private final Iterator<E> iterator;
+    private final BooleanSupplier condition;
+    private boolean stopped;
+
+    UntilItr(Iterator<E> iterator, BooleanSupplier condition) {
+        this.iterator = Objects.requireNonNull(iterator, "iterator is null");
+        this.condition = Objects.requireNonNull(condition, "condition is null");
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!stopped && condition.getAsBoolean()) {
+            stopped = true;
+        }
+        return !stopped && iterator.hasNext();
+    }
+
+    @Override
+    public E next() {
+        if (stopped) {
+            throw new NoSuchElementException();
+        }
+        return iterator.next();
+    }
+}
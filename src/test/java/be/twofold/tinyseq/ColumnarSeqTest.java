@@ -0,0 +1,116 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarSeqTest {
+
+    private final ColumnarSeq table = build(5000);
+    private final int status = table.column("status");
+    private final int bytes = table.column("bytes");
+    private final int latency = table.column("latency");
+    private final int host = table.column("host");
+
+    private static ColumnarSeq build(int rows) {
+        ColumnarSeq.Builder builder = ColumnarSeq.builder()
+            .intColumn("status")
+            .longColumn("bytes")
+            .doubleColumn("latency")
+            .stringColumn("host");
+
+        for (int i = 0; i < rows; i++) {
+            builder
+                .setInt(0, i % 10 == 0 ? 500 : 200)
+                .setLong(1, i * 1000L)
+                .setDouble(2, i / 2.0)
+                .setString(3, i % 7 == 0 ? null : "host-" + (i % 3))
+                .endRow();
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testAggregates() {
+        assertThat(table.count()).isEqualTo(5000);
+        assertThat(table.count((ColumnarSeq.Row r) -> r.getInt(status) == 500)).isEqualTo(500);
+        assertThat(table.sum((ColumnarSeq.Row r) -> r.getLong(bytes))).isEqualTo(12_497_500_000L);
+        assertThat(table.max((ColumnarSeq.Row r) -> r.getDouble(latency))).isEqualTo(2499.5);
+        assertThat(table.filter(r -> r.getInt(status) == 500).min((ColumnarSeq.Row r) -> r.getLong(bytes))).isEqualTo(0L);
+
+        IntSummaryStatistics statistics = table.drop(10).take(20).statistics((ColumnarSeq.Row r) -> r.getInt(status));
+        assertThat(statistics.getCount()).isEqualTo(20);
+        assertThat(statistics.getMax()).isEqualTo(500);
+
+        assertThat(table.average((ColumnarSeq.Row r) -> r.getInt(status))).isEqualTo(230.0);
+        assertThat(table.min((ColumnarSeq.Row r) -> r.getDouble(latency))).isEqualTo(0.0);
+        assertThat(table.drop(4990).statistics((ColumnarSeq.Row r) -> r.getLong(bytes)).getMin()).isEqualTo(4_990_000L);
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> table.drop(5000).max((ColumnarSeq.Row r) -> r.getInt(status)));
+    }
+
+    @Test
+    void testFilteredView() {
+        ColumnarSeq errors = table.filter(r -> r.getInt(status) == 500);
+
+        assertThat(errors.count()).isEqualTo(500);
+        assertThat(errors.sum((ColumnarSeq.Row r) -> r.getLong(bytes))).isEqualTo(1_247_500_000L);
+        assertThat(errors.average((ColumnarSeq.Row r) -> r.getDouble(latency))).isEqualTo(1247.5);
+        assertThat(errors.maxOptional((ColumnarSeq.Row r) -> r.getLong(bytes))).hasValue(4_990_000L);
+        assertThat(errors.minOptional((ColumnarSeq.Row r) -> r.getDouble(latency))).hasValue(0.0);
+        assertThat(errors.map(ColumnarSeq.Row::index).take(3).toList()).containsExactly(0, 10, 20);
+        assertThat(errors.drop(2).take(2).map(r -> r.getLong(bytes)).toList()).containsExactly(20_000L, 30_000L);
+        assertThat(errors.stream().count()).isEqualTo(500);
+
+        ColumnarSeq chained = errors.filter(r -> r.getString(host) == null);
+        assertThat(chained.map(ColumnarSeq.Row::index).take(3).toList()).containsExactly(0, 70, 140);
+        assertThat(chained.filter(r -> false).minOptional((ColumnarSeq.Row r) -> r.getInt(status))).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+            .isThrownBy(() -> chained.filter(r -> false).min((ColumnarSeq.Row r) -> r.getInt(status)));
+    }
+
+    @Test
+    void testRowsAreNotShared() {
+        ColumnarSeq small = table.take(5);
+
+        assertThat(small.map(r -> r).map(ColumnarSeq.Row::index).toList()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(small.sorted(Comparator.comparingLong((ColumnarSeq.Row r) -> r.getLong(bytes))).first().index()).isEqualTo(0);
+        assertThat(small.sorted(Comparator.comparingLong((ColumnarSeq.Row r) -> -r.getLong(bytes))).first().index()).isEqualTo(4);
+        assertThat(small.reduce((a, b) -> a.getDouble(latency) >= b.getDouble(latency) ? a : b).index()).isEqualTo(4);
+        assertThat(small.toSet()).hasSize(5);
+        assertThat(small.distinct().count()).isEqualTo(5);
+        assertThat(small.toList()).isEqualTo(small.toList());
+    }
+
+    @Test
+    void testStrings() {
+        assertThat(table.map(r -> r.getString(host)).take(4).toList())
+            .containsExactly(null, "host-1", "host-2", "host-0");
+        assertThat(table.map(r -> r.getString(host)).toSet())
+            .containsExactlyInAnyOrder(null, "host-0", "host-1", "host-2");
+    }
+
+    @Test
+    void testParallelStream() {
+        assertThat(table.parallelStream().mapToLong(r -> r.getLong(bytes)).sum()).isEqualTo(12_497_500_000L);
+    }
+
+    @Test
+    void testInvalidAccess() {
+        ColumnarSeq.Row first = table.first();
+        assertThatIllegalArgumentException().isThrownBy(() -> first.getLong(status));
+        assertThatIllegalArgumentException().isThrownBy(() -> first.getString(latency));
+        assertThatIllegalArgumentException().isThrownBy(() -> table.column("missing"));
+        assertThatIllegalArgumentException().isThrownBy(() -> ColumnarSeq.builder().intColumn("a").intColumn("a"));
+    }
+
+    @Test
+    void testEmpty() {
+        ColumnarSeq empty = ColumnarSeq.builder().intColumn("a").build();
+        assertThat(empty.count()).isEqualTo(0);
+        assertThat(empty.maxOptional((ColumnarSeq.Row r) -> r.getInt(0))).isEmpty();
+    }
+
+}
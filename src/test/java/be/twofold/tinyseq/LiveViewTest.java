@@ -0,0 +1,101 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LiveViewTest {
+
+    private final AppendableSeq<String> seq = Seq.appendable();
+
+    @Test
+    void testAggregatesFollowAppends() {
+        seq.addAll(Arrays.asList("one", "two"));
+
+        LiveValue<Integer> count = seq.view().count();
+        LiveValue<Integer> length = seq.view().sum(String::length);
+        LiveValue<Integer> distinct = seq.view().map(String::length).distinct().count();
+        LiveValue<OptionalInt> max = seq.view().max(String::length);
+        LiveValue<Map<Integer, Integer>> byLength = seq.view().countBy(String::length);
+
+        assertThat(count.get()).isEqualTo(2);
+        assertThat(length.get()).isEqualTo(6);
+        assertThat(distinct.get()).isEqualTo(1);
+
+        seq.add("three");
+        seq.add("zero");
+
+        assertThat(count.get()).isEqualTo(4);
+        assertThat(length.get()).isEqualTo(15);
+        assertThat(distinct.get()).isEqualTo(3);
+        assertThat(max.get()).hasValue(5);
+        assertThat(byLength.get()).containsOnly(entry(3, 2), entry(5, 1), entry(4, 1));
+    }
+
+    @Test
+    void testFilterAndFold() {
+        LiveValue<String> joined = seq.view()
+            .filter(s -> s.startsWith("t"))
+            .fold("", (acc, s) -> acc + s);
+        LiveValue<OptionalLong> min = seq.view().min((String s) -> (long) s.length());
+        LiveValue<OptionalDouble> max = seq.view().max((String s) -> s.length() / 2.0);
+        LiveValue<Optional<String>> first = seq.view().reduce((a, b) -> a);
+
+        assertThat(joined.get()).isEmpty();
+        assertThat(min.get()).isEmpty();
+        assertThat(max.get()).isEmpty();
+        assertThat(first.get()).isEmpty();
+
+        seq.addAll(Arrays.asList("one", "two", "three"));
+
+        assertThat(joined.get()).isEqualTo("twothree");
+        assertThat(min.get()).hasValue(3L);
+        assertThat(max.get()).hasValue(2.5);
+        assertThat(first.get()).hasValue("one");
+    }
+
+    @Test
+    void testClose() {
+        LiveValue<Integer> count = seq.view().count();
+        seq.add("one");
+        count.close();
+        seq.add("two");
+
+        assertThat(count.isClosed()).isTrue();
+        assertThat(count.get()).isEqualTo(1);
+        count.close();
+    }
+
+    @Test
+    void testFailingViewIsIsolated() {
+        LiveValue<Integer> failing = seq.view().map(Integer::parseInt).sum(Integer::intValue);
+        LiveValue<Integer> count = seq.view().count();
+        LiveValue<Integer> length = seq.view().sum(String::length);
+
+        seq.add("1");
+        seq.add("two");
+        seq.add("3");
+
+        assertThat(seq.count()).isEqualTo(3);
+        assertThat(count.get()).isEqualTo(3);
+        assertThat(length.get()).isEqualTo(5);
+        assertThat(failing.isClosed()).isTrue();
+        assertThatIllegalStateException().isThrownBy(failing::get)
+            .withCauseInstanceOf(NumberFormatException.class);
+        assertThatIllegalStateException().isThrownBy(() -> seq.view().map(Integer::parseInt).count().get());
+    }
+
+    @Test
+    void testIteration() {
+        for (int i = 0; i < 1000; i++) {
+            seq.add(Integer.toString(i));
+        }
+
+        assertThat(seq.count()).isEqualTo(1000);
+        assertThat(seq.last()).isEqualTo("999");
+        assertThat(seq.map(Integer::parseInt).sum(Integer::intValue)).isEqualTo(499_500);
+    }
+
+}
@@ -0,0 +1,176 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+
+import java.lang.management.*;
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SeqAllocationTest {
+
+    private static final int SIZE = 100_000;
+    private static final int WARMUP = 20;
+    private static final int RUNS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final List<Integer> list = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+    private final Seq<Integer> seq = Seq.seq(list);
+    private volatile Object sink;
+
+    @BeforeAll
+    static void checkSupported() {
+        Assumptions.assumeTrue(THREADS != null, "Thread allocation measurement not supported");
+    }
+
+    @Test
+    void testOperatorsAreAllocationFree() {
+        assertAllocation(0, () -> seq.filter(i -> (i & 1) == 0).count());
+        assertAllocation(0, () -> seq.map(Function.identity()).count());
+        assertAllocation(0, () -> seq.onEach(i -> sink = i).count());
+        assertAllocation(0, () -> seq.drop(10).take(SIZE - 20).count());
+        assertAllocation(0, () -> seq.until(() -> false).count());
+        assertAllocation(0, () -> seq.takeWithin(Duration.ofDays(1)).count());
+        assertAllocation(0, () -> seq.stream().filter(i -> (i & 1) == 0).count());
+    }
+
+    @Test
+    void testTerminalsAreAllocationFree() {
+        assertAllocation(0, () -> seq.count(i -> (i & 1) == 0));
+        assertAllocation(0, () -> seq.all(Objects::nonNull));
+        assertAllocation(0, () -> seq.any(Objects::isNull));
+        assertAllocation(0, () -> seq.none(Objects::isNull));
+        assertAllocation(0, seq::first);
+        assertAllocation(0, seq::last);
+        assertAllocation(0, () -> seq.reduce((a, b) -> a >= b ? a : b));
+        assertAllocation(0, () -> seq.fold(0, (a, b) -> a >= b ? a : b));
+        assertAllocation(0, seq::firstOptional);
+        assertAllocation(0, seq::lastOptional);
+        assertAllocation(0, () -> seq.reduceOptional((a, b) -> a >= b ? a : b));
+    }
+
+    @Test
+    void testPrimitiveTerminalsAreAllocationFree() {
+        assertAllocation(0, () -> seq.sum((Integer i) -> i * 3));
+        assertAllocation(0, () -> seq.sum((Integer i) -> i * 3L));
+        assertAllocation(0, () -> seq.sum((Integer i) -> i * 0.5));
+        assertAllocation(0, () -> seq.min((Integer i) -> i % 1000));
+        assertAllocation(0, () -> seq.max((Integer i) -> -i * 7L));
+        assertAllocation(0, () -> seq.average((Integer i) -> i * 0.25));
+        assertAllocation(0, () -> seq.statistics((Integer i) -> i ^ 0x5555));
+        assertAllocation(0, () -> seq.minOptional((Integer i) -> i % 1000));
+        assertAllocation(0, () -> seq.maxOptional((Integer i) -> i * 0.5));
+        assertAllocation(0, () -> seq.average((Integer i) -> i * 3));
+        assertAllocation(0, () -> seq.average((Integer i) -> i * 3L));
+        assertAllocation(0, () -> seq.statistics((Integer i) -> i * 3L));
+        assertAllocation(0, () -> seq.statistics((Integer i) -> i * 0.5));
+        assertAllocation(0, () -> seq.filter(i -> (i & 1) == 0).sum((Integer i) -> i * 2L));
+    }
+
+    @Test
+    void testColumnarIsAllocationFree() {
+        ColumnarSeq.Builder builder = ColumnarSeq.builder().intColumn("a").doubleColumn("b");
+        for (int i = 0; i < SIZE; i++) {
+            builder.setInt(0, i).setDouble(1, i * 0.5).endRow();
+        }
+        ColumnarSeq table = builder.build();
+
+        assertAllocation(0, () -> table.count(r -> r.getInt(0) % 3 == 0));
+        assertAllocation(0, () -> table.sum((ColumnarSeq.Row r) -> r.getDouble(1)));
+        assertAllocation(0, () -> table.average((ColumnarSeq.Row r) -> r.getInt(0)));
+        assertAllocation(0, () -> table.max((ColumnarSeq.Row r) -> r.getInt(0)));
+        assertAllocation(0, () -> table.min((ColumnarSeq.Row r) -> r.getDouble(1)));
+        assertAllocation(0, () -> table.statistics((ColumnarSeq.Row r) -> r.getDouble(1)));
+        assertAllocation(0, () -> table.maxOptional((ColumnarSeq.Row r) -> r.getDouble(1)));
+        assertAllocation(0, () -> table.filter(r -> r.getInt(0) % 3 == 0).sum((ColumnarSeq.Row r) -> r.getDouble(1)));
+        assertAllocation(0, () -> table.filter(r -> r.getInt(0) % 3 == 0).minOptional((ColumnarSeq.Row r) -> r.getInt(0)));
+        assertAllocation(0, () -> table.filter(r -> r.getInt(0) % 3 == 0).count());
+    }
+
+    @Test
+    void testBoxingOperatorsStayWithinBudget() {
+        assertAllocation(16, () -> seq.map(i -> i + 1000).count());
+        assertAllocation(16, () -> seq.fold(0, Integer::sum));
+        assertAllocation(16, () -> seq.mapIndexed((index, i) -> i).count());
+        assertAllocation(16, () -> seq.filterIndexed((index, i) -> true).count());
+        assertAllocation(16, () -> seq.onEachIndexed((index, i) -> sink = i).count());
+        assertAllocation(96, () -> seq.flatMapIndexed((index, i) -> list.subList(i, i)).count());
+    }
+
+    @Test
+    void testFlatMapStaysWithinBudget() {
+        List<List<Integer>> nested = Seq.seq(list).map(Collections::singletonList).toList();
+        Seq<List<Integer>> lists = Seq.seq(nested);
+
+        assertAllocation(32, () -> lists.flatMap(Function.identity()).count());
+        assertAllocation(64, () -> seq.flatMap(Collections::singletonList).count());
+    }
+
+    @Test
+    void testCollectingTerminalsStayWithinBudget() {
+        assertAllocation(24, () -> seq.map(Function.identity()).toList());
+        assertAllocation(32, () -> seq.sorted(Comparator.reverseOrder()).count());
+        assertAllocation(96, () -> seq.distinct().count());
+        assertAllocation(32, () -> seq.sorted().count());
+        assertAllocation(96, seq::toSet);
+        assertAllocation(24, () -> seq.toCollection(new ArrayDeque<>()));
+        assertAllocation(32, seq::toUnmodifiableList);
+        assertAllocation(96, seq::toUnmodifiableSet);
+    }
+
+    @Test
+    void testThroughput() {
+        Runnable operation = () -> sink = seq.filter(i -> (i & 1) == 0).sum(Integer::longValue);
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            operation.run();
+        }
+        double elementsPerSecond = (double) SIZE * RUNS / (System.nanoTime() - start) * 1e9;
+
+        assertThat(elementsPerSecond)
+            .as("elements per second")
+            .isGreaterThan(1_000_000);
+    }
+
+    private void assertAllocation(double budget, Supplier<?> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink = operation.get();
+        }
+
+        long best = Long.MAX_VALUE;
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < RUNS; i++) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            sink = operation.get();
+            best = Math.min(best, THREADS.getThreadAllocatedBytes(threadId) - before);
+        }
+
+        // Tolerate a small constant overhead for iterators, lambdas and result objects
+        double bytesPerElement = Math.max(0, best - 1024) / (double) SIZE;
+        assertThat(bytesPerElement)
+            .as("bytes allocated per element")
+            .isLessThanOrEqualTo(budget);
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+}
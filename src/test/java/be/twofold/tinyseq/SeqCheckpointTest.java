@@ -0,0 +1,160 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SeqCheckpointTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCheckpointAndOpen() {
+        Path path = directory.resolve("ints.seq");
+        Seq<Integer> seq = Seq.seq(IntStream.range(0, 1000).boxed().iterator())
+            .checkpoint(path, Codec.ints());
+
+        assertThat(seq.count()).isEqualTo(1000);
+        assertThat(seq.first()).isEqualTo(0);
+        assertThat(seq.last()).isEqualTo(999);
+        assertThat(seq.sum(Integer::intValue)).isEqualTo(499_500);
+
+        Seq<Integer> reopened = Seq.open(path, Codec.ints());
+        assertThat(reopened.toList()).isEqualTo(seq.toList());
+        assertThat(reopened.parallelStream().mapToLong(Integer::longValue).sum()).isEqualTo(499_500);
+    }
+
+    @Test
+    void testDropAndTake() {
+        Seq<Long> seq = Seq.of(1L, 2L, 3L, 4L, 5L)
+            .checkpoint(directory.resolve("longs.seq"), Codec.longs());
+
+        assertThat(seq.drop(2).count()).isEqualTo(3);
+        assertThat(seq.drop(2).toList()).containsExactly(3L, 4L, 5L);
+        assertThat(seq.drop(10).lastOptional()).isEmpty();
+        assertThat(seq.drop(1).take(2).toList()).containsExactly(2L, 3L);
+        assertThat(seq.take(3).last()).isEqualTo(3L);
+        assertThatIllegalArgumentException().isThrownBy(() -> seq.drop(-1));
+    }
+
+    @Test
+    void testEmpty() {
+        Seq<Double> seq = Seq.<Double>empty()
+            .checkpoint(directory.resolve("empty.seq"), Codec.doubles());
+
+        assertThat(seq.count()).isEqualTo(0);
+        assertThat(seq.toList()).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(seq::last);
+    }
+
+    @Test
+    void testVariableLengthAcrossSegments() {
+        List<String> strings = Arrays.asList("", "a", "abcdefghij", "0123456789abcdef", "", "klmnop", "qrstuvwxyz", "é");
+        Path path = directory.resolve("strings.seq");
+        MappedSeq.write(Seq.seq(strings), path, Codec.strings(), 4);
+
+        Seq<String> seq = Seq.open(path, Codec.strings());
+        assertThat(seq.toList()).isEqualTo(strings);
+        assertThat(seq.drop(3).first()).isEqualTo("0123456789abcdef");
+        assertThat(seq.last()).isEqualTo("é");
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> MappedSeq.write(Seq.of("0123456789abcdefg"), path, Codec.strings(), 4));
+    }
+
+    @Test
+    void testFailedCheckpointKeepsExistingFile() throws Exception {
+        Path path = directory.resolve("keep.seq");
+        Seq<Integer> seq = Seq.of(1, 2, 3).checkpoint(path, Codec.ints());
+
+        Seq<Integer> failing = Seq.of(4, 5, 6).map(i -> {
+            if (i == 6) {
+                throw new IllegalStateException("boom");
+            }
+            return i;
+        });
+        assertThatIllegalStateException().isThrownBy(() -> failing.checkpoint(path, Codec.ints()));
+        assertThat(Seq.open(path, Codec.ints()).toList()).containsExactly(1, 2, 3);
+
+        Seq<Integer> rewritten = seq.map(i -> i * 10).checkpoint(path, Codec.ints());
+        assertThat(rewritten.toList()).containsExactly(10, 20, 30);
+        assertThat(seq.toList()).containsExactly(1, 2, 3);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void testFixedSizeSkipsOffsetTable() throws Exception {
+        Path path = directory.resolve("compact.seq");
+        Seq.seq(IntStream.range(0, 1000).boxed().iterator()).checkpoint(path, Codec.ints());
+
+        assertThat(Files.size(path)).isLessThan(1000 * Integer.BYTES + 64);
+    }
+
+    @Test
+    void testFixedSizeAcrossSegments() {
+        Codec<long[]> pairs = new Codec<long[]>() {
+            @Override
+            public void encode(long[] value, DataOutput output) throws IOException {
+                output.writeLong(value[0]);
+                output.writeInt((int) value[1]);
+            }
+
+            @Override
+            public long[] decode(ByteBuffer buffer) {
+                return new long[]{buffer.getLong(), buffer.getInt()};
+            }
+
+            @Override
+            public int fixedSize() {
+                return 12;
+            }
+        };
+
+        Path path = directory.resolve("pairs.seq");
+        MappedSeq.write(Seq.seq(IntStream.range(0, 100).mapToObj(i -> new long[]{i * 10L, i}).iterator()), path, pairs, 5);
+
+        Seq<long[]> seq = Seq.open(path, pairs);
+        assertThat(seq.count()).isEqualTo(100);
+        assertThat(seq.map(p -> p[0] + p[1]).toList())
+            .isEqualTo(IntStream.range(0, 100).mapToObj(i -> i * 11L).collect(Collectors.toList()));
+        assertThat(seq.drop(57).first()).containsExactly(570L, 57L);
+        assertThat(seq.last()).containsExactly(990L, 99L);
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> MappedSeq.write(Seq.of(new long[]{1}), path, new Codec<long[]>() {
+                @Override
+                public void encode(long[] value, DataOutput output) throws IOException {
+                    output.writeLong(value[0]);
+                }
+
+                @Override
+                public long[] decode(ByteBuffer buffer) {
+                    return new long[]{buffer.getLong()};
+                }
+
+                @Override
+                public int fixedSize() {
+                    return 12;
+                }
+            }, 5));
+    }
+
+    @Test
+    void testOpenInvalidFile() throws Exception {
+        Path path = Files.write(directory.resolve("invalid.seq"), new byte[]{1, 2, 3});
+
+        assertThatExceptionOfType(UncheckedIOException.class)
+            .isThrownBy(() -> Seq.open(path, Codec.ints()));
+    }
+
+}
@@ -0,0 +1,118 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SeqStreamTest {
+
+    @Test
+    void testSpliteratorOfArray() {
+        Spliterator<Integer> spliterator = Seq.of(1, 2, 3, 4, 5, 6, 7, 8).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(8);
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(4);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(4);
+    }
+
+    @Test
+    void testSpliteratorOfIterator() {
+        Spliterator<String> spliterator = Seq.seq(Arrays.asList("a", "b").iterator()).spliterator();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+    }
+
+    @Test
+    void testSpliteratorOfDistinct() {
+        Seq<Integer> seq = Seq.of(1, 2, 1, 3).distinct();
+
+        assertThat(seq.spliterator().hasCharacteristics(Spliterator.DISTINCT)).isTrue();
+        assertThat(seq.stream().collect(Collectors.toList())).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testSpliteratorOfSorted() {
+        Spliterator<Integer> natural = Seq.of(3, 1, 2).sorted().spliterator();
+        assertThat(natural.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED)).isTrue();
+        assertThat(natural.getComparator()).isNull();
+
+        Comparator<Integer> reverse = Comparator.reverseOrder();
+        Spliterator<Integer> reversed = Seq.of(3, 1, 2).sorted(reverse).spliterator();
+        assertThat(reversed.getComparator()).isSameAs(reverse);
+        assertThat(reversed.trySplit().getComparator()).isSameAs(reverse);
+    }
+
+    @Test
+    void testSpliteratorOfMap() {
+        Spliterator<Integer> mapped = Seq.of(1, 2, 3, 4).map(x -> x).spliterator();
+        assertThat(mapped.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED)).isTrue();
+        assertThat(mapped.getExactSizeIfKnown()).isEqualTo(4);
+        assertThat(mapped.trySplit().getExactSizeIfKnown()).isEqualTo(2);
+
+        Spliterator<Integer> sorted = Seq.of(3, 1, 2).sorted().onEach(x -> {
+        }).map(x -> -x).spliterator();
+        assertThat(sorted.hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(sorted.hasCharacteristics(Spliterator.SORTED)).isFalse();
+        assertThat(Seq.of(1, 2).distinct().map(x -> x % 2).spliterator().hasCharacteristics(Spliterator.DISTINCT)).isFalse();
+    }
+
+    @Test
+    void testSpliteratorOfTakeAndDrop() {
+        Seq<Integer> seq = Seq.of(1, 2, 3, 4, 5);
+
+        assertThat(seq.take(3).spliterator().getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(seq.take(10).spliterator().getExactSizeIfKnown()).isEqualTo(5);
+        assertThat(seq.drop(2).spliterator().getExactSizeIfKnown()).isEqualTo(3);
+        assertThat(seq.drop(10).spliterator().getExactSizeIfKnown()).isEqualTo(0);
+        assertThat(seq.drop(1).take(3).stream().collect(Collectors.toList())).containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void testIndexedInParallel() {
+        List<Integer> list = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+        assertThat(Seq.seq(list).mapIndexed((i, t) -> i - t).parallelStream().allMatch(d -> d == 0)).isTrue();
+
+        List<Integer> mismatches = Collections.synchronizedList(new ArrayList<>());
+        long count = Seq.seq(list)
+            .onEachIndexed((i, t) -> {
+                if (!i.equals(t)) {
+                    mismatches.add(t);
+                }
+            })
+            .parallelStream()
+            .filter(Objects::nonNull)
+            .count();
+        assertThat(count).isEqualTo(100_000);
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void testStream() {
+        List<Integer> list = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        assertThat(Seq.seq(list).stream().mapToInt(Integer::intValue).sum()).isEqualTo(49_995_000);
+        assertThat(Seq.seq(list).parallelStream().mapToInt(Integer::intValue).sum()).isEqualTo(49_995_000);
+        assertThat(Seq.seq(list).map(i -> i * 2).stream().count()).isEqualTo(10_000);
+    }
+
+    @Test
+    void testFromStream() {
+        Seq<String> seq = Seq.fromStream(Stream.of("one", "two", "three"));
+
+        assertThat(seq.map(String::length).toList()).containsExactly(3, 3, 5);
+        assertThatIllegalStateException().isThrownBy(seq::toList);
+
+        Spliterator<String> spliterator = Seq.fromStream(Stream.of("a", "b")).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+    }
+
+}
@@ -2,7 +2,9 @@ package be.twofold.tinyseq;
 
 import org.junit.jupiter.api.*;
 
+import java.time.*;
 import java.util.*;
+import java.util.stream.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -48,4 +50,49 @@ class SeqTest {
         assertThat(nonEmptyNullSeq.lastOptional()).isEmpty();
     }
 
+    @Test
+    void testUntil() {
+        CancellationToken token = new CancellationToken();
+        Seq<Integer> seq = Seq.seq(Stream.iterate(0, i -> i + 1).iterator())
+            .onEach(i -> {
+                if (i == 9) {
+                    token.cancel();
+                }
+            })
+            .until(token);
+
+        assertThat(seq.toList()).hasSize(10);
+        assertThat(token.isCancelled()).isTrue();
+        assertThat(nonEmptySeq.until(() -> false).count()).isEqualTo(5);
+        assertThat(nonEmptySeq.until(() -> true).count()).isEqualTo(0);
+    }
+
+    @Test
+    void testTakeWithin() {
+        Seq<Integer> infinite = Seq.seq(Stream.iterate(0, i -> i + 1).iterator());
+
+        assertThat(infinite.takeWithin(Duration.ofMillis(10)).count()).isPositive();
+        assertThat(nonEmptySeq.takeWithin(Duration.ofDays(365_000_000_000L)).toList())
+            .containsExactly("one", "two", "three", "four", "five");
+        assertThat(nonEmptySeq.takeWithin(Duration.ZERO).toList()).isEmpty();
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> nonEmptySeq.takeWithin(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void testTakeWithinSignalsExpiry() {
+        CancellationToken expired = new CancellationToken();
+        Seq<Integer> infinite = Seq.seq(Stream.iterate(0, i -> i + 1).iterator());
+        assertThat(infinite.takeWithin(Duration.ofMillis(10), expired).count()).isPositive();
+        assertThat(expired.isCancelled()).isTrue();
+
+        CancellationToken completed = new CancellationToken();
+        assertThat(nonEmptySeq.takeWithin(Duration.ofDays(1), completed).count()).isEqualTo(5);
+        assertThat(completed.isCancelled()).isFalse();
+
+        CancellationToken cancelled = new CancellationToken();
+        cancelled.cancel();
+        assertThat(nonEmptySeq.takeWithin(Duration.ofDays(1), cancelled).count()).isEqualTo(0);
+    }
+
 }
@@ -0,0 +1,122 @@
+package be.twofold.tinyseq;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TeeTest {
+
+    @Test
+    void testSinglePass() {
+        AtomicInteger pulls = new AtomicInteger();
+        Seq<Integer> seq = Seq.seq(IntStream.range(0, 10_000).boxed().iterator())
+            .onEach(i -> pulls.incrementAndGet());
+
+        Tee<Integer> tee = seq.tee();
+        Supplier<Integer> evens = tee.branch(s -> s.count(i -> i % 2 == 0));
+        Supplier<Long> sum = tee.branch(s -> s.sum(Integer::longValue));
+        Supplier<List<Integer>> firstFive = tee.branch(s -> s.take(5).toList());
+        Supplier<Integer> last = tee.branch(Seq::last);
+        tee.run();
+
+        assertThat(pulls.get()).isEqualTo(10_000);
+        assertThat(evens.get()).isEqualTo(5000);
+        assertThat(sum.get()).isEqualTo(49_995_000L);
+        assertThat(firstFive.get()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(last.get()).isEqualTo(9999);
+    }
+
+    @Test
+    void testEarlyFinishingBranchesStopUpstream() {
+        Seq<Integer> infinite = Seq.seq(Stream.iterate(0, i -> i + 1).iterator());
+
+        Tee<Integer> tee = infinite.tee();
+        Supplier<Integer> first = tee.branch(Seq::first);
+        Supplier<List<Integer>> some = tee.branch(s -> s.take(1000).toList());
+        tee.run();
+
+        assertThat(first.get()).isEqualTo(0);
+        assertThat(some.get()).hasSize(1000);
+    }
+
+    @Test
+    void testFailures() {
+        Tee<String> tee = Seq.of("a", "b").tee();
+        Supplier<String> failing = tee.branch(s -> {
+            throw new IllegalArgumentException("boom");
+        });
+        Supplier<Integer> count = tee.branch(Seq::count);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(failing::get);
+        assertThatIllegalArgumentException().isThrownBy(tee::run).withMessage("boom");
+        assertThat(count.get()).isEqualTo(2);
+        assertThatIllegalArgumentException().isThrownBy(failing::get);
+        assertThatIllegalStateException().isThrownBy(tee::run);
+    }
+
+    @Test
+    void testLazyBranchFailsFast() {
+        Tee<Integer> tee = Seq.seq(IntStream.range(0, 100_000).boxed().iterator()).tee();
+        Supplier<Seq<Integer>> lazy = tee.branch(s -> s.filter(i -> i % 2 == 0));
+        Supplier<Integer> count = tee.branch(Seq::count);
+        tee.run();
+
+        assertThat(count.get()).isEqualTo(100_000);
+        assertThatIllegalStateException().isThrownBy(() -> lazy.get().count());
+    }
+
+    @Test
+    void testUpstreamFailureFailsBranches() {
+        Seq<Integer> failing = Seq.of(1, 2, 3).map(i -> {
+            if (i == 3) {
+                throw new ArithmeticException("boom");
+            }
+            return i;
+        });
+
+        Tee<Integer> tee = failing.tee();
+        Supplier<Integer> count = tee.branch(Seq::count);
+
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(tee::run);
+        assertThatIllegalStateException().isThrownBy(count::get)
+            .withCauseInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void testInterruptAbortsRun() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        Tee<Integer> tee = Seq.seq(Stream.iterate(0, i -> i + 1).iterator()).tee();
+        Supplier<Integer> stuck = tee.branch(s -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return s.count();
+        });
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread runner = new Thread(() -> {
+            try {
+                tee.run();
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        });
+        runner.start();
+        Thread.sleep(100);
+        runner.interrupt();
+        runner.join(5000);
+
+        assertThat(runner.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(IllegalStateException.class);
+        assertThatIllegalStateException().isThrownBy(stuck::get);
+    }
+
+}